@@ -3,20 +3,27 @@
 #############################
 # How to run
 # ./generate-report.sh
+#
+# All model/ws/seq packages run in a single JVM (support.runner.MatrixRunner),
+# which writes one report directory per sequence into reports/<model>/<ws>/<seq>.
+# Extra runner options can be passed through, e.g.
+# ./generate-report.sh --models deepseek --sites ws01,ws02
+# Packages run longest first, estimated from reports/_history/durations.json;
+# --matrix-order keeps the fixed model/ws/seq order.
+#
+# Afterwards support.runner.ReportAggregator updates summary-report.csv and the
+# error/failure type counts for the packages that have TEST-*.xml results under
+# the reports directory (--reports-dir, default reports/); rows of packages the
+# run did not cover are kept.
 #############################
 
-mvn clean test-compile
+reports_dir=reports
+args=("$@")
+for ((i = 0; i < ${#args[@]}; i++)); do
+    if [ "${args[i]}" = "--reports-dir" ]; then
+        reports_dir="${args[i + 1]}"
+    fi
+done
 
-for model in $(echo "deepseek claudesonnet4")
-do
-	for ws in $(echo "ws01 ws02 ws03 ws04 ws05 ws06 ws07 ws08 ws09")
-	do
-		for seq in $(echo "seq01 seq02 seq03 seq04 seq05")
-		do
-			mvn test -Dtest="**/${model}/${ws}/${seq}/*"
-			mvn surefire-report:report-only
-			mkdir -p reports/${model}/${ws}
-			mv target/reports reports/${model}/${ws}/${seq}
-		done
-	done
-done
\ No newline at end of file
+mvn clean test-compile exec:java -Dexec.args="$*"
+mvn -q exec:java -Dexec.mainClass=support.runner.ReportAggregator -Dexec.args="--reports-dir $reports_dir"